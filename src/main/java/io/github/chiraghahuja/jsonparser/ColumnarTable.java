@@ -0,0 +1,774 @@
+package io.github.chiraghahuja.jsonparser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ColumnarTable class holds a JSON object or array of objects as one column per field.
+ * The schema is inferred while the input is streamed, so no per-record JsonNode trees are built.
+ *
+ * Each column stores its values in a primitive array ({@code int[]}, {@code long[]}, {@code double[]},
+ * or dictionary codes for strings) plus a null bitmap. A field that is missing from a record is null for
+ * that row. Column types are widened as values arrive: INT to LONG to DOUBLE for numbers, and to STRING
+ * when a column mixes incompatible values. Nested objects and arrays are stored as their JSON text.
+ *
+ * Example usage:
+ * <pre>{@code
+ * ColumnarTable table = ColumnarTable.loadFromFile("path/to/your/json/file.json");
+ * ColumnarTable.Column age = table.column("age");
+ *
+ * long sum = 0;
+ * int[] values = age.intValues();
+ * for (int row = 0; row < age.size(); row++) {
+ *     if (!age.isNull(row)) {
+ *         sum += values[row];
+ *     }
+ * }
+ *
+ * table.writeToFile("path/to/your/output/file.jcol");
+ * ColumnarTable copy = ColumnarTable.readFromFile("path/to/your/output/file.jcol");
+ * }</pre>
+ */
+public class ColumnarTable {
+
+    private static final int MAGIC = 0x4A434F4C; // "JCOL"
+    private static final int VERSION = 1;
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private int rowCount;
+
+    private ColumnarTable() {
+        // Instances are created by the load and read methods
+    }
+
+    /**
+     * Streams a JSON string into columns.
+     * The JSON can be either a JSON object (dictionary) or an array of JSON objects (list of dictionaries).
+     *
+     * @param jsonString the JSON string to parse
+     * @return the columnar representation of the input
+     * @throws JsonUtils.InvalidJsonFormatException if the JSON string is not formatted correctly
+     */
+    public static ColumnarTable loadFromString(String jsonString) throws JsonUtils.InvalidJsonFormatException {
+        if (jsonString == null) {
+            // Same failure as JsonUtils.loadFromString(String) for null input
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: argument \"content\" is null");
+        }
+        try (JsonParser parser = JsonUtils.mapper().getFactory().createParser(jsonString)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Streams a JSON file into columns without reading the whole file into memory first.
+     * The JSON can be either a JSON object (dictionary) or an array of JSON objects (list of dictionaries).
+     *
+     * @param filePath the file path of the JSON file to parse
+     * @return the columnar representation of the file
+     * @throws IOException                          if an error occurs while reading the JSON file
+     * @throws JsonUtils.InvalidJsonFormatException if the JSON content is not formatted correctly
+     */
+    public static ColumnarTable loadFromFile(String filePath) throws IOException, JsonUtils.InvalidJsonFormatException {
+        try (JsonParser parser = JsonUtils.mapper().getFactory().createParser(new File(filePath))) {
+            return read(parser);
+        } catch (JsonProcessingException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts already loaded records, such as the result of {@link JsonUtils#loadFromFile(String)}, into columns.
+     *
+     * @param nodes the records to convert; every element must be a JSON object
+     * @return the columnar representation of the records
+     * @throws JsonUtils.InvalidJsonFormatException if an element is not a JSON object
+     */
+    public static ColumnarTable fromNodes(List<JsonNode> nodes) throws JsonUtils.InvalidJsonFormatException {
+        ColumnarTable table = new ColumnarTable();
+        try {
+            for (JsonNode node : nodes) {
+                if (!node.isObject()) {
+                    throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Array elements are not objects");
+                }
+                try (JsonParser parser = node.traverse(JsonUtils.mapper())) {
+                    parser.nextToken();
+                    table.readRecord(parser);
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+        table.trimToSize();
+        return table;
+    }
+
+    private static ColumnarTable read(JsonParser parser) throws IOException, JsonUtils.InvalidJsonFormatException {
+        ColumnarTable table = new ColumnarTable();
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            table.readRecord(parser);
+        } else if (token == JsonToken.START_ARRAY) {
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Array elements are not objects");
+                }
+                table.readRecord(parser);
+            }
+        } else {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: JSON is neither an object nor an array");
+        }
+        table.trimToSize();
+        return table;
+    }
+
+    private void readRecord(JsonParser parser) throws IOException {
+        int row = rowCount;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            Column column = columns.get(name);
+            if (column == null) {
+                column = new Column(name);
+                column.appendNulls(row);
+                columns.put(name, column);
+            } else if (column.size > row) {
+                // Duplicate key within one record: the last value wins, as with readTree
+                column.size = row;
+                column.clearNull(row);
+            }
+            switch (token) {
+                case VALUE_NUMBER_INT:
+                    if (parser.getNumberType() == JsonParser.NumberType.INT) {
+                        column.appendLong(parser.getIntValue(), ColumnType.INT);
+                    } else if (parser.getNumberType() == JsonParser.NumberType.LONG) {
+                        column.appendLong(parser.getLongValue(), ColumnType.LONG);
+                    } else {
+                        column.appendString(parser.getText());
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    column.appendDouble(parser.getDoubleValue());
+                    break;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    column.appendBoolean(token == JsonToken.VALUE_TRUE);
+                    break;
+                case VALUE_STRING:
+                    column.appendString(parser.getText());
+                    break;
+                case VALUE_NULL:
+                    column.appendNulls(1);
+                    break;
+                default:
+                    column.appendString(copyNestedValue(parser));
+                    break;
+            }
+        }
+        rowCount++;
+        for (Column column : columns.values()) {
+            if (column.size < rowCount) {
+                column.appendNulls(1);
+            }
+        }
+    }
+
+    /**
+     * Copies the nested object or array at the current token straight to JSON text, without building a tree.
+     */
+    private static String copyNestedValue(JsonParser parser) throws IOException {
+        JsonFactory factory = JsonUtils.mapper().getFactory();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    private void trimToSize() {
+        for (Column column : columns.values()) {
+            column.trimToSize();
+        }
+    }
+
+    /**
+     * Returns the number of records.
+     *
+     * @return the row count
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the column names in the order in which the fields were first seen.
+     *
+     * @return an unmodifiable list of column names
+     */
+    public List<String> columnNames() {
+        return Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+    }
+
+    /**
+     * Returns the column for a field.
+     *
+     * @param name the field name
+     * @return the column, or null if no record has this field
+     */
+    public Column column(String name) {
+        return columns.get(name);
+    }
+
+    /**
+     * Writes the table to a compact binary file that can be loaded back with {@link #readFromFile(String)}.
+     *
+     * @param filePath the file path to write the columns to
+     * @throws IOException if an error occurs while writing the file
+     */
+    public void writeToFile(String filePath) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(Paths.get(filePath)), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rowCount);
+            out.writeInt(columns.size());
+            for (Column column : columns.values()) {
+                writeString(out, column.name);
+                out.writeByte(column.type.ordinal());
+                out.writeInt(column.nulls.length);
+                writeLongs(out, column.nulls, column.nulls.length);
+                switch (column.type) {
+                    case INT:
+                    case BOOLEAN:
+                        writeInts(out, column.ints, rowCount);
+                        break;
+                    case LONG:
+                        writeLongs(out, column.longs, rowCount);
+                        break;
+                    case DOUBLE:
+                        writeDoubles(out, column.doubles, rowCount);
+                        break;
+                    case STRING:
+                        out.writeInt(column.dictionary.size());
+                        for (String value : column.dictionary) {
+                            writeString(out, value);
+                        }
+                        writeInts(out, column.codes, rowCount);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #writeToFile(String)}.
+     * Column arrays are filled with bulk copies, so loading costs little more than reading the file.
+     *
+     * @param filePath the file path of the columnar file
+     * @return the table stored in the file
+     * @throws IOException if an error occurs while reading the file or the file is not a valid columnar file
+     */
+    public static ColumnarTable readFromFile(String filePath) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filePath)));
+        try {
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("Not a columnar file: " + filePath);
+            }
+            ColumnarTable table = new ColumnarTable();
+            table.rowCount = in.getInt();
+            int columnCount = in.getInt();
+            for (int i = 0; i < columnCount; i++) {
+                Column column = new Column(readString(in));
+                column.type = ColumnType.values()[in.get()];
+                column.size = table.rowCount;
+                column.nulls = readLongs(in, in.getInt());
+                switch (column.type) {
+                    case INT:
+                    case BOOLEAN:
+                        column.ints = readInts(in, table.rowCount);
+                        break;
+                    case LONG:
+                        column.longs = readLongs(in, table.rowCount);
+                        break;
+                    case DOUBLE:
+                        column.doubles = readDoubles(in, table.rowCount);
+                        break;
+                    case STRING:
+                        int dictionarySize = checkLength(in, in.getInt(), Integer.BYTES);
+                        column.dictionary = new ArrayList<>(dictionarySize);
+                        column.dictionaryIndex = new HashMap<>(dictionarySize * 2);
+                        for (int code = 0; code < dictionarySize; code++) {
+                            String value = readString(in);
+                            column.dictionary.add(value);
+                            column.dictionaryIndex.put(value, code);
+                        }
+                        column.codes = readInts(in, table.rowCount);
+                        break;
+                    default:
+                        break;
+                }
+                column.capacity = table.rowCount;
+                table.columns.put(column.name, column);
+            }
+            return table;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Corrupt columnar file: " + filePath, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[checkLength(in, in.getInt(), 1)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInts(OutputStream out, int[] values, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * length);
+        buffer.asIntBuffer().put(values, 0, length);
+        out.write(buffer.array());
+    }
+
+    private static void writeLongs(OutputStream out, long[] values, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * length);
+        buffer.asLongBuffer().put(values, 0, length);
+        out.write(buffer.array());
+    }
+
+    private static void writeDoubles(OutputStream out, double[] values, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES * length);
+        buffer.asDoubleBuffer().put(values, 0, length);
+        out.write(buffer.array());
+    }
+
+    private static int checkLength(ByteBuffer in, int length, int elementBytes) {
+        // Guards against allocating huge arrays for lengths read from a truncated or corrupt file
+        if (length < 0 || (long) length * elementBytes > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static int[] readInts(ByteBuffer in, int length) {
+        int[] values = new int[checkLength(in, length, Integer.BYTES)];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + Integer.BYTES * length);
+        return values;
+    }
+
+    private static long[] readLongs(ByteBuffer in, int length) {
+        long[] values = new long[checkLength(in, length, Long.BYTES)];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + Long.BYTES * length);
+        return values;
+    }
+
+    private static double[] readDoubles(ByteBuffer in, int length) {
+        double[] values = new double[checkLength(in, length, Double.BYTES)];
+        in.asDoubleBuffer().get(values);
+        in.position(in.position() + Double.BYTES * length);
+        return values;
+    }
+
+    /**
+     * The storage type of a column.
+     */
+    public enum ColumnType {
+        /** Every value in the column is null. */
+        NULL,
+        /** Whole numbers that fit in an int, stored in {@link Column#intValues()}. */
+        INT,
+        /** Whole numbers that fit in a long, stored in {@link Column#longValues()}. */
+        LONG,
+        /** Numbers with a fraction or exponent, stored in {@link Column#doubleValues()}. */
+        DOUBLE,
+        /** Booleans, stored as 0 or 1 in {@link Column#intValues()}. */
+        BOOLEAN,
+        /** Strings and nested JSON, stored as codes into {@link Column#dictionary()}. */
+        STRING;
+
+        private static ColumnType widen(ColumnType current, ColumnType value) {
+            if (current == value || current == NULL) {
+                return value;
+            }
+            if (isNumeric(current) && isNumeric(value)) {
+                return current.ordinal() > value.ordinal() ? current : value;
+            }
+            return STRING;
+        }
+
+        private static boolean isNumeric(ColumnType type) {
+            return type == INT || type == LONG || type == DOUBLE;
+        }
+    }
+
+    /**
+     * A single column: a primitive value array for its type plus a null bitmap.
+     * The arrays returned by the accessors are the column's own storage and are exactly {@link #size()} long;
+     * they must not be modified.
+     */
+    public static final class Column {
+
+        private final String name;
+        private ColumnType type = ColumnType.NULL;
+        private int size;
+        private int capacity = 16;
+        private long[] nulls = new long[1];
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private int[] codes;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryIndex;
+
+        private Column(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the field name of this column.
+         *
+         * @return the column name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the storage type of this column.
+         *
+         * @return the column type
+         */
+        public ColumnType type() {
+            return type;
+        }
+
+        /**
+         * Returns the number of rows in this column.
+         *
+         * @return the row count
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Tells whether the value at a row is null or missing.
+         *
+         * @param row the row index
+         * @return true if the row has no value
+         */
+        public boolean isNull(int row) {
+            return (nulls[row >>> 6] & (1L << row)) != 0;
+        }
+
+        /**
+         * Returns the null bitmap: bit {@code row % 64} of word {@code row / 64} is set when the row is null.
+         *
+         * @return the null bitmap
+         */
+        public long[] nullBitmap() {
+            return nulls;
+        }
+
+        /**
+         * Returns the values of an INT or BOOLEAN column. Null rows hold 0.
+         *
+         * @return the int values
+         */
+        public int[] intValues() {
+            requireType(ColumnType.INT, ColumnType.BOOLEAN);
+            return ints;
+        }
+
+        /**
+         * Returns the values of a LONG column. Null rows hold 0.
+         *
+         * @return the long values
+         */
+        public long[] longValues() {
+            requireType(ColumnType.LONG, ColumnType.LONG);
+            return longs;
+        }
+
+        /**
+         * Returns the values of a DOUBLE column. Null rows hold 0.0.
+         *
+         * @return the double values
+         */
+        public double[] doubleValues() {
+            requireType(ColumnType.DOUBLE, ColumnType.DOUBLE);
+            return doubles;
+        }
+
+        /**
+         * Returns the dictionary codes of a STRING column. Null rows hold 0.
+         *
+         * @return the codes into {@link #dictionary()}
+         */
+        public int[] stringCodes() {
+            requireType(ColumnType.STRING, ColumnType.STRING);
+            return codes;
+        }
+
+        /**
+         * Returns the distinct values of a STRING column, indexed by code.
+         *
+         * @return an unmodifiable list of distinct values
+         */
+        public List<String> dictionary() {
+            requireType(ColumnType.STRING, ColumnType.STRING);
+            return Collections.unmodifiableList(dictionary);
+        }
+
+        /**
+         * Returns a numeric value as a long.
+         *
+         * @param row the row index
+         * @return the value, or 0 if the row is null
+         */
+        public long getLong(int row) {
+            switch (type) {
+                case INT:
+                    return ints[row];
+                case LONG:
+                    return longs[row];
+                default:
+                    throw new IllegalStateException("Column " + name + " of type " + type + " has no long values");
+            }
+        }
+
+        /**
+         * Returns a numeric value as a double.
+         *
+         * @param row the row index
+         * @return the value, or 0.0 if the row is null
+         */
+        public double getDouble(int row) {
+            if (type == ColumnType.DOUBLE) {
+                return doubles[row];
+            }
+            return getLong(row);
+        }
+
+        /**
+         * Returns a value of a BOOLEAN column.
+         *
+         * @param row the row index
+         * @return the value, or false if the row is null
+         */
+        public boolean getBoolean(int row) {
+            requireType(ColumnType.BOOLEAN, ColumnType.BOOLEAN);
+            return ints[row] != 0;
+        }
+
+        /**
+         * Returns the text of a value of any type.
+         *
+         * @param row the row index
+         * @return the value as text, or null if the row is null
+         */
+        public String getString(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            switch (type) {
+                case INT:
+                    return Integer.toString(ints[row]);
+                case LONG:
+                    return Long.toString(longs[row]);
+                case DOUBLE:
+                    return Double.toString(doubles[row]);
+                case BOOLEAN:
+                    return Boolean.toString(ints[row] != 0);
+                case STRING:
+                    return dictionary.get(codes[row]);
+                default:
+                    return null;
+            }
+        }
+
+        private void requireType(ColumnType first, ColumnType second) {
+            if (type != first && type != second) {
+                throw new IllegalStateException("Column " + name + " is of type " + type);
+            }
+        }
+
+        private void appendNulls(int count) {
+            for (int i = 0; i < count; i++) {
+                ensureCapacity();
+                nulls[size >>> 6] |= 1L << size;
+                size++;
+            }
+        }
+
+        private void clearNull(int row) {
+            nulls[row >>> 6] &= ~(1L << row);
+        }
+
+        private void appendLong(long value, ColumnType valueType) {
+            promoteTo(ColumnType.widen(type, valueType));
+            ensureCapacity();
+            switch (type) {
+                case INT:
+                    ints[size] = (int) value;
+                    break;
+                case LONG:
+                    longs[size] = value;
+                    break;
+                case DOUBLE:
+                    doubles[size] = value;
+                    break;
+                default:
+                    codes[size] = code(Long.toString(value));
+                    break;
+            }
+            size++;
+        }
+
+        private void appendDouble(double value) {
+            promoteTo(ColumnType.widen(type, ColumnType.DOUBLE));
+            ensureCapacity();
+            if (type == ColumnType.DOUBLE) {
+                doubles[size] = value;
+            } else {
+                codes[size] = code(Double.toString(value));
+            }
+            size++;
+        }
+
+        private void appendBoolean(boolean value) {
+            promoteTo(ColumnType.widen(type, ColumnType.BOOLEAN));
+            ensureCapacity();
+            if (type == ColumnType.BOOLEAN) {
+                ints[size] = value ? 1 : 0;
+            } else {
+                codes[size] = code(Boolean.toString(value));
+            }
+            size++;
+        }
+
+        private void appendString(String value) {
+            promoteTo(ColumnType.STRING);
+            ensureCapacity();
+            codes[size] = code(value);
+            size++;
+        }
+
+        private int code(String value) {
+            Integer code = dictionaryIndex.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryIndex.put(value, code);
+            }
+            return code;
+        }
+
+        private void promoteTo(ColumnType target) {
+            if (target == type) {
+                return;
+            }
+            switch (target) {
+                case INT:
+                case BOOLEAN:
+                    ints = new int[capacity];
+                    break;
+                case LONG:
+                    longs = new long[capacity];
+                    for (int row = 0; row < size && ints != null; row++) {
+                        longs[row] = ints[row];
+                    }
+                    break;
+                case DOUBLE:
+                    doubles = new double[capacity];
+                    for (int row = 0; row < size && (ints != null || longs != null); row++) {
+                        doubles[row] = ints != null ? ints[row] : longs[row];
+                    }
+                    break;
+                default:
+                    codes = new int[capacity];
+                    dictionary = new ArrayList<>();
+                    dictionaryIndex = new HashMap<>();
+                    for (int row = 0; row < size && type != ColumnType.NULL; row++) {
+                        if (!isNull(row)) {
+                            codes[row] = code(getString(row));
+                        }
+                    }
+                    break;
+            }
+            if (target != ColumnType.INT && target != ColumnType.BOOLEAN) {
+                ints = null;
+            }
+            if (target != ColumnType.LONG) {
+                longs = null;
+            }
+            if (target != ColumnType.DOUBLE) {
+                doubles = null;
+            }
+            type = target;
+        }
+
+        private void ensureCapacity() {
+            if ((size >>> 6) >= nulls.length) {
+                nulls = Arrays.copyOf(nulls, Math.max(1, nulls.length * 2));
+            }
+            if (size < capacity) {
+                return;
+            }
+            capacity = Math.max(16, capacity * 2);
+            resize(capacity);
+        }
+
+        private void trimToSize() {
+            nulls = Arrays.copyOf(nulls, (size + 63) >>> 6);
+            capacity = size;
+            resize(size);
+        }
+
+        private void resize(int length) {
+            if (ints != null) {
+                ints = Arrays.copyOf(ints, length);
+            }
+            if (longs != null) {
+                longs = Arrays.copyOf(longs, length);
+            }
+            if (doubles != null) {
+                doubles = Arrays.copyOf(doubles, length);
+            }
+            if (codes != null) {
+                codes = Arrays.copyOf(codes, length);
+            }
+        }
+    }
+}
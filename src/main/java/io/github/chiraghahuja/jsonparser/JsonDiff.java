@@ -0,0 +1,490 @@
+package io.github.chiraghahuja.jsonparser;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The JsonDiff class computes and applies JSON Patch (RFC 6902) documents between two snapshots of
+ * records, i.e. between two results of {@link JsonUtils#loadFromFile(String)} or directly between two files.
+ *
+ * Records are matched by a key field whose value must be unique within each snapshot, and compared by a
+ * 64-bit structural hash, so unchanged records cost one hash comparison. A record that changed position
+ * costs one removal and one addition, whichever direction it moved. Hashes are computed in parallel
+ * across partitions of the records. The generated patch only uses top-level {@code remove}, {@code add}
+ * and {@code replace} operations: all removals first in descending index order, then additions and
+ * replacements in ascending index order. A patch in that shape can be applied to a file in one streaming
+ * pass with {@link #applyPatchToFile(String, String, String)}.
+ *
+ * Example usage:
+ * <pre>{@code
+ * JsonDiff.diffFiles("snapshot-1.json", "snapshot-2.json", "id", "changes.json");
+ * JsonDiff.applyPatchToFile("snapshot-1.json", "changes.json", "snapshot-2-rebuilt.json");
+ * }</pre>
+ */
+public class JsonDiff {
+
+    private static final int PARTITION_SIZE = 4096;
+
+    private static final byte KEEP = 0;
+    private static final byte REPLACE = 1;
+    private static final byte ADD = 2;
+
+    private JsonDiff() {
+        // Private constructor to prevent instantiation from outside
+    }
+
+    /**
+     * Computes the patch that turns {@code before} into {@code after}.
+     *
+     * @param before   the old records
+     * @param after    the new records
+     * @param keyField the field that identifies a record in both lists
+     * @return the patch operations, in the order they must be applied
+     * @throws JsonUtils.InvalidJsonFormatException if a record has no key or a key occurs twice
+     *
+     * Example usage:
+     * <pre>{@code
+     * List<JsonNode> patch = JsonDiff.diff(JsonUtils.loadFromFile("old.json"), JsonUtils.loadFromFile("new.json"), "id");
+     * for (JsonNode operation : patch) {
+     *     System.out.println(operation);
+     * }
+     * }</pre>
+     */
+    public static List<JsonNode> diff(List<JsonNode> before, List<JsonNode> after, String keyField) throws JsonUtils.InvalidJsonFormatException {
+        List<Summary> beforeSummaries = new ArrayList<>(before.size());
+        List<Summary> afterSummaries = new ArrayList<>(after.size());
+        summarize(before, keyField, beforeSummaries);
+        summarize(after, keyField, afterSummaries);
+
+        List<JsonNode> patch = new ArrayList<>();
+        Plan plan = plan(beforeSummaries, afterSummaries);
+        for (int index : plan.removals) {
+            patch.add(operation("remove", index, null));
+        }
+        for (int index = 0; index < plan.actions.length; index++) {
+            if (plan.actions[index] != KEEP) {
+                patch.add(operation(plan.actions[index] == ADD ? "add" : "replace", index, after.get(index)));
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * Computes the patch between two JSON files and writes it to a third file as a JSON array.
+     * Both inputs are streamed; only the key and hash of each record are held in memory.
+     *
+     * @param beforePath the file path of the old snapshot
+     * @param afterPath  the file path of the new snapshot
+     * @param keyField   the field that identifies a record in both files
+     * @param patchPath  the file path to write the patch to
+     * @throws IOException                          if an error occurs while reading or writing the files
+     * @throws JsonUtils.InvalidJsonFormatException if the content is not formatted correctly, a record has no key
+     *                                              or a key occurs twice
+     */
+    public static void diffFiles(String beforePath, String afterPath, String keyField, String patchPath) throws IOException, JsonUtils.InvalidJsonFormatException {
+        Plan plan = plan(summarize(beforePath, keyField), summarize(afterPath, keyField));
+
+        try (JsonGenerator generator = JsonUtils.mapper().getFactory().createGenerator(new File(patchPath), JsonEncoding.UTF8);
+             RecordReader after = new RecordReader(afterPath)) {
+            generator.writeStartArray();
+            for (int index : plan.removals) {
+                generator.writeTree(operation("remove", index, null));
+            }
+            JsonNode record;
+            for (int index = 0; (record = after.next()) != null; index++) {
+                if (plan.actions[index] != KEEP) {
+                    generator.writeTree(operation(plan.actions[index] == ADD ? "add" : "replace", index, record));
+                }
+            }
+            generator.writeEndArray();
+        } catch (JsonProcessingException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a patch to a list of records.
+     * The patch must have the shape produced by {@link #diff(List, List, String)}; see {@link JsonDiff}.
+     *
+     * @param records the records to patch; the list is not modified
+     * @param patch   the patch operations
+     * @return the patched records
+     * @throws JsonUtils.InvalidJsonFormatException if the patch is invalid or not in streaming order
+     */
+    public static List<JsonNode> applyPatch(List<JsonNode> records, List<JsonNode> patch) throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> result = new ArrayList<>(records.size());
+        Iterator<JsonNode> recordIterator = records.iterator();
+        Iterator<JsonNode> patchIterator = patch.iterator();
+        try {
+            apply(() -> recordIterator.hasNext() ? recordIterator.next() : null,
+                    () -> patchIterator.hasNext() ? patchIterator.next() : null, result::add);
+        } catch (IOException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Applies a patch file to a JSON file and writes the result to another file, streaming all three.
+     * The patch must have the shape produced by {@link #diffFiles(String, String, String, String)}; see {@link JsonDiff}.
+     *
+     * @param inputPath  the file path of the records to patch
+     * @param patchPath  the file path of the patch
+     * @param outputPath the file path to write the patched records to
+     * @throws IOException                          if an error occurs while reading or writing the files
+     * @throws JsonUtils.InvalidJsonFormatException if the content or the patch is invalid, or the patch is not
+     *                                              in streaming order
+     */
+    public static void applyPatchToFile(String inputPath, String patchPath, String outputPath) throws IOException, JsonUtils.InvalidJsonFormatException {
+        try (RecordReader input = new RecordReader(inputPath);
+             RecordReader patch = new RecordReader(patchPath);
+             JsonGenerator generator = JsonUtils.mapper().getFactory().createGenerator(new File(outputPath), JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            apply(input::next, patch::next, generator::writeTree);
+            generator.writeEndArray();
+        } catch (JsonProcessingException e) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Merges the input records with the patch in one pass. Removals come first and only mark original
+     * indices; each add or replace then copies surviving input records up to its position.
+     */
+    private static void apply(Source input, Source patch, Sink output) throws IOException, JsonUtils.InvalidJsonFormatException {
+        BitSet removed = new BitSet();
+        int lastRemoved = Integer.MAX_VALUE;
+        int inputIndex = 0;
+        int outputIndex = 0;
+        JsonNode operation;
+        while ((operation = patch.next()) != null) {
+            String op = operation.path("op").asText();
+            String path = operation.path("path").asText();
+            if ("remove".equals(op)) {
+                int index = index(path);
+                if (outputIndex > 0 || index >= lastRemoved) {
+                    throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch operation " + op + " " + path + " is out of order for streaming apply");
+                }
+                removed.set(index);
+                lastRemoved = index;
+                continue;
+            }
+            if (!"add".equals(op) && !"replace".equals(op)) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Unsupported patch operation " + op);
+            }
+            JsonNode value = operation.get("value");
+            if (value == null) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch operation " + op + " " + path + " has no value");
+            }
+            int target = "add".equals(op) && "/-".equals(path) ? Integer.MAX_VALUE : index(path);
+            if (target < outputIndex) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch operation " + op + " " + path + " is out of order for streaming apply");
+            }
+            while (outputIndex < target) {
+                JsonNode record = input.next();
+                if (record == null) {
+                    break;
+                }
+                if (!removed.get(inputIndex++)) {
+                    output.accept(record);
+                    outputIndex++;
+                }
+            }
+            if (target != Integer.MAX_VALUE && outputIndex < target) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch path " + path + " is out of bounds");
+            }
+            if ("replace".equals(op)) {
+                JsonNode record;
+                do {
+                    record = input.next();
+                    if (record == null) {
+                        throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch path " + path + " is out of bounds");
+                    }
+                } while (removed.get(inputIndex++));
+            }
+            output.accept(value);
+            outputIndex++;
+        }
+        JsonNode record;
+        while ((record = input.next()) != null) {
+            if (!removed.get(inputIndex++)) {
+                output.accept(record);
+            }
+        }
+        if (removed.length() > inputIndex) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Patch path /" + (removed.length() - 1) + " is out of bounds");
+        }
+    }
+
+    private static int index(String path) throws JsonUtils.InvalidJsonFormatException {
+        if (path.length() > 1 && path.charAt(0) == '/' && path.indexOf('/', 1) < 0) {
+            try {
+                int index = Integer.parseInt(path.substring(1));
+                if (index >= 0) {
+                    return index;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+        }
+        throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Unsupported patch path " + path);
+    }
+
+    private static ObjectNode operation(String op, int index, JsonNode value) {
+        ObjectNode operation = JsonUtils.mapper().createObjectNode();
+        operation.put("op", op);
+        operation.put("path", "/" + index);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    /**
+     * Matches records by key. The records kept in place are the longest run of matched records whose order is
+     * the same in both snapshots, so they need no moves; every other record is removed and added again.
+     */
+    private static Plan plan(List<Summary> before, List<Summary> after) throws JsonUtils.InvalidJsonFormatException {
+        Map<String, Integer> beforeIndex = keyIndex(before);
+        keyIndex(after);
+        int[] matches = new int[after.size()];
+        for (int index = 0; index < matches.length; index++) {
+            Integer match = beforeIndex.get(after.get(index).key);
+            matches[index] = match == null ? -1 : match;
+        }
+
+        BitSet keptAfter = longestIncreasingRun(matches);
+        BitSet kept = new BitSet(before.size());
+        byte[] actions = new byte[after.size()];
+        for (int index = 0; index < actions.length; index++) {
+            if (keptAfter.get(index)) {
+                kept.set(matches[index]);
+                actions[index] = before.get(matches[index]).hash == after.get(index).hash ? KEEP : REPLACE;
+            } else {
+                actions[index] = ADD;
+            }
+        }
+        int[] removals = new int[before.size() - kept.cardinality()];
+        int next = 0;
+        for (int index = before.size() - 1; index >= 0; index--) {
+            if (!kept.get(index)) {
+                removals[next++] = index;
+            }
+        }
+        return new Plan(removals, actions);
+    }
+
+    /**
+     * Finds a longest strictly increasing subsequence of the non-negative values by patience sorting,
+     * in O(n log n), and returns the positions that belong to it.
+     */
+    private static BitSet longestIncreasingRun(int[] values) {
+        int[] tails = new int[values.length];
+        int[] previous = new int[values.length];
+        int length = 0;
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[tails[middle]] < values[index]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[index] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = index;
+            if (low == length) {
+                length++;
+            }
+        }
+        BitSet positions = new BitSet(values.length);
+        for (int index = length > 0 ? tails[length - 1] : -1; index >= 0; index = previous[index]) {
+            positions.set(index);
+        }
+        return positions;
+    }
+
+    private static Map<String, Integer> keyIndex(List<Summary> summaries) throws JsonUtils.InvalidJsonFormatException {
+        Map<String, Integer> index = new HashMap<>(summaries.size() * 2);
+        for (int i = 0; i < summaries.size(); i++) {
+            if (index.put(summaries.get(i).key, i) != null) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Duplicate key " + summaries.get(i).key);
+            }
+        }
+        return index;
+    }
+
+    private static List<Summary> summarize(String filePath, String keyField) throws IOException, JsonUtils.InvalidJsonFormatException {
+        List<Summary> summaries = new ArrayList<>();
+        List<JsonNode> partition = new ArrayList<>(PARTITION_SIZE);
+        try (RecordReader reader = new RecordReader(filePath)) {
+            JsonNode record;
+            while ((record = reader.next()) != null) {
+                partition.add(record);
+                if (partition.size() == PARTITION_SIZE) {
+                    summarize(partition, keyField, summaries);
+                    partition.clear();
+                }
+            }
+        }
+        summarize(partition, keyField, summaries);
+        return summaries;
+    }
+
+    private static void summarize(List<JsonNode> records, String keyField, List<Summary> summaries) throws JsonUtils.InvalidJsonFormatException {
+        Summary[] partition = new Summary[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> partition[i] = summarize(records.get(i), keyField));
+        for (Summary summary : partition) {
+            if (summary.key == null) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Record has no value for key field " + keyField);
+            }
+            summaries.add(summary);
+        }
+    }
+
+    private static Summary summarize(JsonNode record, String keyField) {
+        JsonNode key = record.get(keyField);
+        return new Summary(key == null || key.isNull() || key.isContainerNode() ? null : key.toString(), hash(record));
+    }
+
+    /**
+     * Structural 64-bit hash; object fields are combined order-independently, like JsonNode equality.
+     */
+    static long hash(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                long fields = 0;
+                Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, JsonNode> field = iterator.next();
+                    fields += mix(hash(field.getKey()) * 31 + hash(field.getValue()));
+                }
+                return mix(fields ^ 0x6F626A656374L ^ node.size());
+            case ARRAY:
+                long elements = 0x6172726179L;
+                for (JsonNode element : node) {
+                    elements = elements * 0x100000001B3L + hash(element);
+                }
+                return mix(elements ^ node.size());
+            case STRING:
+                return mix(hash(node.textValue()) ^ 0x737472696E67L);
+            case NUMBER:
+                return mix(hash(node.asText()) ^ 0x6E756D626572L);
+            case BOOLEAN:
+                return node.booleanValue() ? 0x74727565L : 0x66616C7365L;
+            case NULL:
+                return 0x6E756C6CL;
+            default:
+                return mix(hash(node.toString()));
+        }
+    }
+
+    private static long hash(String text) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Summary {
+
+        private final String key;
+        private final long hash;
+
+        private Summary(String key, long hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    private static final class Plan {
+
+        private final int[] removals;
+        private final byte[] actions;
+
+        private Plan(int[] removals, byte[] actions) {
+            this.removals = removals;
+            this.actions = actions;
+        }
+    }
+
+    private interface Source {
+        JsonNode next() throws IOException, JsonUtils.InvalidJsonFormatException;
+    }
+
+    private interface Sink {
+        void accept(JsonNode node) throws IOException;
+    }
+
+    /**
+     * Streams the records of a file holding a JSON object or an array of JSON objects, one tree per record.
+     */
+    private static final class RecordReader implements Source, AutoCloseable {
+
+        private final JsonParser parser;
+        private boolean started;
+        private boolean single;
+
+        private RecordReader(String filePath) throws IOException {
+            this.parser = JsonUtils.mapper().getFactory().createParser(new File(filePath));
+        }
+
+        @Override
+        public JsonNode next() throws IOException, JsonUtils.InvalidJsonFormatException {
+            if (!started) {
+                started = true;
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT) {
+                    single = true;
+                    return parser.readValueAsTree();
+                } else if (token != JsonToken.START_ARRAY) {
+                    throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: JSON is neither an object nor an array");
+                }
+            }
+            if (single) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                single = true;
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Array elements are not objects");
+            }
+            return parser.readValueAsTree();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.chiraghahuja.jsonparser;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The JsonInterner class is a bounded, thread-safe canonicalization table for short strings.
+ * It is used on the load path so that repeated string values (country codes, status strings, ...)
+ * share one {@link TextNode} instead of allocating a new node and string per occurrence.
+ *
+ * Once the table holds {@code maxEntries} values it stops growing; values that are not already
+ * in the table are then returned as fresh nodes, exactly as without interning.
+ *
+ * Example usage:
+ * <pre>{@code
+ * JsonInterner interner = new JsonInterner(100_000, 64);
+ * List<JsonNode> jsonNodes = JsonUtils.loadFromFile("records.json", interner);
+ * System.out.println("Interner hit rate: " + interner.hitRate());
+ * }</pre>
+ */
+public class JsonInterner {
+
+    private final int maxEntries;
+    private final int maxLength;
+    private final ConcurrentHashMap<String, TextNode> table;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final JsonNodeFactory nodeFactory = new InterningNodeFactory();
+
+    /**
+     * Constructs an interner.
+     *
+     * @param maxEntries the maximum number of distinct strings kept in the table
+     * @param maxLength  the maximum length of a string to be interned; longer strings are never interned
+     */
+    public JsonInterner(int maxEntries, int maxLength) {
+        if (maxEntries < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("maxEntries and maxLength must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+        this.table = new ConcurrentHashMap<>(Math.min(maxEntries, 1024));
+    }
+
+    /**
+     * Returns the canonical {@link TextNode} for the given text.
+     *
+     * @param text the text value
+     * @return a shared node if the text is short enough and the table has room, a new node otherwise
+     */
+    public TextNode textNode(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() > maxLength) {
+            return TextNode.valueOf(text);
+        }
+        TextNode node = table.get(text);
+        if (node != null) {
+            hits.increment();
+            return node;
+        }
+        misses.increment();
+        node = TextNode.valueOf(text);
+        // Reserve a slot before inserting so that concurrent loaders can never push the table past maxEntries
+        if (size.incrementAndGet() > maxEntries) {
+            size.decrementAndGet();
+            return node;
+        }
+        TextNode existing = table.putIfAbsent(text, node);
+        if (existing != null) {
+            size.decrementAndGet();
+            return existing;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the canonical instance of the given string, for example a field name.
+     *
+     * @param text the string to canonicalize
+     * @return the shared string if the text is short enough and the table has room, the given string otherwise
+     */
+    public String intern(String text) {
+        TextNode node = textNode(text);
+        return node == null ? null : node.textValue();
+    }
+
+    /**
+     * Returns the number of lookups that found an existing entry.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups (of interning candidates) that did not find an existing entry.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were served from the table.
+     *
+     * @return the hit rate between 0.0 and 1.0, or 0.0 if nothing has been looked up yet
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of distinct strings currently held in the table.
+     *
+     * @return the table size
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Removes all entries and resets the hit and miss counters.
+     * Values interned concurrently with this call may remain in the table.
+     */
+    public void clear() {
+        for (String text : table.keySet()) {
+            if (table.remove(text) != null) {
+                size.decrementAndGet();
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    JsonNodeFactory nodeFactory() {
+        return nodeFactory;
+    }
+
+    /**
+     * Node factory that routes every text value created by the parser through the table.
+     */
+    private class InterningNodeFactory extends JsonNodeFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TextNode textNode(String text) {
+            return JsonInterner.this.textNode(text);
+        }
+    }
+}
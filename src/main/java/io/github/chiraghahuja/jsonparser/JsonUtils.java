@@ -1,9 +1,11 @@
 package io.github.chiraghahuja.jsonparser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -31,6 +33,16 @@ public class JsonUtils  {
         objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     }
 
+    /**
+     * Returns the shared ObjectMapper so that other classes of this package parse and serialize
+     * with the same configuration as JsonUtils.
+     *
+     * @return the shared ObjectMapper
+     */
+    static ObjectMapper mapper() {
+        return objectMapper;
+    }
+
     /**
      * Constructs a JSON object. This constructor is private to prevent instantiation from outside the class.
      */
@@ -85,28 +97,84 @@ public class JsonUtils  {
         try {
             //ObjectMapper objectMapper = new ObjectMapper();
             JsonNode jsonNode = objectMapper.readTree(jsonString);
+            return toNodeList(jsonNode);
+        } catch (Exception e) {
+            throw new InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
 
-            if (jsonNode.isObject()) {
-                List<JsonNode> jsonNodes = new ArrayList<>();
-                jsonNodes.add(jsonNode);
-                return jsonNodes;
-            } else if (jsonNode.isArray()) {
-                List<JsonNode> jsonNodes = new ArrayList<>();
-                for (JsonNode element : jsonNode) {
-                    if (!element.isObject()) {
-                        throw new InvalidJsonFormatException("Invalid JSON format: Array elements are not objects");
-                    }
-                    jsonNodes.add(element);
-                }
-                return jsonNodes;
-            } else {
-                throw new InvalidJsonFormatException("Invalid JSON format: JSON is neither an object nor an array");
-            }
+    /**
+     * Parses a JSON string like {@link #loadFromString(String)}, but canonicalizes short string values through
+     * the given interner so that repeated values share a single {@code TextNode} instance.
+     * Field names are already interned by Jackson's parser and are shared across records without help.
+     *
+     * @param jsonString the JSON string to parse
+     * @param interner   the interner used to share repeated string values; may be reused across calls and threads
+     * @return a list of JsonNode objects representing the JSON structure
+     * @throws InvalidJsonFormatException if the JSON string is not formatted correctly
+     *
+     * Example usage:
+     * <pre>{@code
+     * JsonInterner interner = new JsonInterner(100_000, 64);
+     * List<JsonNode> jsonNodes = JsonUtils.loadFromString(jsonArrayString, interner);
+     * System.out.println("Interner hit rate: " + interner.hitRate());
+     * }</pre>
+     */
+    public static List<JsonNode> loadFromString (String jsonString, JsonInterner interner) throws InvalidJsonFormatException {
+        try {
+            JsonNode jsonNode = objectMapper.reader().with(interner.nodeFactory()).readTree(jsonString);
+            return toNodeList(jsonNode);
         } catch (Exception e) {
             throw new InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
         }
     }
 
+    /**
+     * Parses a JSON string like {@link #loadFromString(String)}, enforcing the given limits while the input is
+     * streamed. Parsing stops at the first token that crosses a limit, before the rest of the tree is built.
+     *
+     * @param jsonString the JSON string to parse
+     * @param limits     the limits to enforce; share one instance so its concurrency limit and metrics are global
+     * @return a list of JsonNode objects representing the JSON structure
+     * @throws ParseLimitExceededException if the input exceeds one of the limits
+     * @throws InvalidJsonFormatException  if the JSON string is not formatted correctly
+     */
+    public static List<JsonNode> loadFromString (String jsonString, ParseLimits limits) throws InvalidJsonFormatException {
+        if (jsonString == null) {
+            // Same failure as loadFromString(String) for null input
+            throw new InvalidJsonFormatException("Invalid JSON format: argument \"content\" is null");
+        }
+        boolean acquired = limits.acquire(jsonString.length());
+        try (JsonParser parser = objectMapper.getFactory().createParser(jsonString)) {
+            return toNodeList(limits.readTree(parser, objectMapper.getNodeFactory()));
+        } catch (IOException e) {
+            throw new InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        } finally {
+            if (acquired) {
+                limits.release();
+            }
+        }
+    }
+
+    private static List<JsonNode> toNodeList (JsonNode jsonNode) throws InvalidJsonFormatException {
+        if (jsonNode.isObject()) {
+            List<JsonNode> jsonNodes = new ArrayList<>();
+            jsonNodes.add(jsonNode);
+            return jsonNodes;
+        } else if (jsonNode.isArray()) {
+            List<JsonNode> jsonNodes = new ArrayList<>();
+            for (JsonNode element : jsonNode) {
+                if (!element.isObject()) {
+                    throw new InvalidJsonFormatException("Invalid JSON format: Array elements are not objects");
+                }
+                jsonNodes.add(element);
+            }
+            return jsonNodes;
+        } else {
+            throw new InvalidJsonFormatException("Invalid JSON format: JSON is neither an object nor an array");
+        }
+    }
+
     /**
      * Serializes a list of Java objects to a JSON string.
      * @param objects the list of objects to serialize
@@ -155,6 +223,54 @@ public class JsonUtils  {
         return loadFromString(jsonString);
     }
 
+    /**
+     * Parses a JSON file like {@link #loadFromFile(String)}, sharing repeated short string values through the
+     * given interner. This keeps heap use down on bulk loads where many records repeat the same values.
+     * The file is streamed rather than read into memory as a whole.
+     *
+     * @param filePath the file path of the JSON file to parse
+     * @param interner the interner used to share repeated string values; may be reused across calls and threads
+     * @return a list of JsonNode objects representing the JSON structure
+     * @throws IOException                if an error occurs while reading the JSON file
+     * @throws InvalidJsonFormatException if the JSON content is not formatted correctly
+     */
+    public static List<JsonNode> loadFromFile (String filePath, JsonInterner interner) throws IOException, InvalidJsonFormatException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(new File(filePath))) {
+            JsonNode jsonNode = objectMapper.reader().with(interner.nodeFactory()).readTree(parser);
+            if (jsonNode == null) {
+                // Empty file; loadFromString(String) sees a missing node here
+                throw new InvalidJsonFormatException("Invalid JSON format: JSON is neither an object nor an array");
+            }
+            return toNodeList(jsonNode);
+        } catch (JsonProcessingException e) {
+            throw new InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a JSON file like {@link #loadFromFile(String)}, enforcing the given limits. The file size is checked
+     * before anything is read, and the file is then streamed rather than read into memory as a whole.
+     *
+     * @param filePath the file path of the JSON file to parse
+     * @param limits   the limits to enforce; share one instance so its concurrency limit and metrics are global
+     * @return a list of JsonNode objects representing the JSON structure
+     * @throws IOException                 if an error occurs while reading the JSON file
+     * @throws ParseLimitExceededException if the file exceeds one of the limits
+     * @throws InvalidJsonFormatException  if the JSON content is not formatted correctly
+     */
+    public static List<JsonNode> loadFromFile (String filePath, ParseLimits limits) throws IOException, InvalidJsonFormatException {
+        boolean acquired = limits.acquire(Files.size(Paths.get(filePath)));
+        try (JsonParser parser = objectMapper.getFactory().createParser(new File(filePath))) {
+            return toNodeList(limits.readTree(parser, objectMapper.getNodeFactory()));
+        } catch (JsonProcessingException e) {
+            throw new InvalidJsonFormatException("Invalid JSON format: " + e.getMessage());
+        } finally {
+            if (acquired) {
+                limits.release();
+            }
+        }
+    }
+
 
 
     /**
@@ -205,6 +321,52 @@ public class JsonUtils  {
             super(message);
         }
     }
+
+    /**
+     * Exception class representing input that exceeds a {@link ParseLimits} limit.
+     * It is an InvalidJsonFormatException so existing handlers keep rejecting such input.
+     */
+    public static class ParseLimitExceededException extends InvalidJsonFormatException {
+
+        private final ParseLimits.Limit limit;
+        private final long maximum;
+        private final long actual;
+
+        /**
+         * Constructs a ParseLimitExceededException for the given limit.
+         *
+         * @param limit   the limit that was exceeded
+         * @param maximum the configured maximum
+         * @param actual  the value observed when parsing stopped
+         */
+        public ParseLimitExceededException(ParseLimits.Limit limit, long maximum, long actual) {
+            super("Parse limit exceeded: " + limit + " reached " + actual + ", maximum is " + maximum);
+            this.limit = limit;
+            this.maximum = maximum;
+            this.actual = actual;
+        }
+
+        /**
+         * @return the limit that was exceeded
+         */
+        public ParseLimits.Limit getLimit() {
+            return limit;
+        }
+
+        /**
+         * @return the configured maximum
+         */
+        public long getMaximum() {
+            return maximum;
+        }
+
+        /**
+         * @return the value observed when parsing stopped
+         */
+        public long getActual() {
+            return actual;
+        }
+    }
 }
 
 
@@ -0,0 +1,136 @@
+package io.github.chiraghahuja.jsonparser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The JsonWarmUp class exercises the parse and serialize paths of this library on synthetic inputs.
+ * Short-lived programs can call {@link #warmUp()} at startup so that class loading, ObjectMapper setup
+ * and JIT compilation happen before the first real document is parsed.
+ *
+ * Its {@link #main(String[])} method is also the training run used by the {@code appcds} build profile
+ * to record an AppCDS archive for the jar, and the probe used by the startup benchmark.
+ *
+ * Example usage:
+ * <pre>{@code
+ * public static void main(String[] args) throws Exception {
+ *     JsonWarmUp.warmUp();
+ *     List<JsonNode> jsonNodes = JsonUtils.loadFromFile(args[0]);
+ * }
+ * }</pre>
+ */
+public class JsonWarmUp {
+
+    /**
+     * The number of iterations used by {@link #warmUp()}.
+     */
+    public static final int DEFAULT_ITERATIONS = 500;
+
+    private static final String SYNTHETIC_OBJECT =
+            "{\"name\": \"John\", \"age\": 30, \"score\": 1.5, \"active\": true, \"city\": null,"
+                    + " \"tags\": [\"a\", \"b\"], \"address\": {\"street\": \"123 Main St\", \"zip\": 10001}}";
+
+    private static final String SYNTHETIC_ARRAY = "[" + SYNTHETIC_OBJECT + ", " + SYNTHETIC_OBJECT + "]";
+
+    private JsonWarmUp() {
+        // Private constructor to prevent instantiation from outside
+    }
+
+    /**
+     * Warms up the library with {@link #DEFAULT_ITERATIONS} iterations.
+     */
+    public static void warmUp() {
+        warmUp(DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Runs the parse and serialize paths the given number of times on synthetic inputs,
+     * and the file paths once if a scratch file can be written.
+     *
+     * @param iterations the number of times to run the in-memory parse and serialize paths
+     */
+    public static void warmUp(int iterations) {
+        try {
+            List<Sample> samples = new ArrayList<>();
+            samples.add(new Sample("John", 30));
+            for (int i = 0; i < iterations; i++) {
+                List<JsonNode> nodes = JsonUtils.loadFromString(SYNTHETIC_ARRAY);
+                JsonUtils.loadFromString(SYNTHETIC_OBJECT);
+                JsonUtils.dumpToString(nodes);
+                JsonUtils.dumpToString(samples);
+            }
+        } catch (IOException | JsonUtils.InvalidJsonFormatException e) {
+            throw new IllegalStateException("Warm-up failed: " + e.getMessage(), e);
+        }
+        warmUpFiles();
+    }
+
+    /**
+     * Runs the file paths through a scratch file. This step is best-effort: on read-only file systems,
+     * common in containers and serverless runtimes, it is skipped instead of failing the caller.
+     */
+    private static void warmUpFiles() {
+        Path file = null;
+        try {
+            file = Files.createTempFile("jsonparser-warmup", ".json");
+            JsonUtils.dumpToFile(JsonUtils.loadFromString(SYNTHETIC_ARRAY), file.toString());
+            JsonUtils.loadFromFile(file.toString());
+        } catch (IOException | JsonUtils.InvalidJsonFormatException e) {
+            // No writable scratch space; the in-memory paths are already warm
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // Leave the scratch file to the temp directory's cleanup
+                }
+            }
+        }
+    }
+
+    /**
+     * Warms up the library and exits. This is the training run for AppCDS archives.
+     * With the argument {@code --time-to-first-parse} it instead parses one document and prints
+     * the JVM uptime in milliseconds at which the parse finished.
+     *
+     * @param args command line arguments
+     * @throws JsonUtils.InvalidJsonFormatException if the synthetic document cannot be parsed
+     */
+    public static void main(String[] args) throws JsonUtils.InvalidJsonFormatException {
+        if (args.length > 0 && "--time-to-first-parse".equals(args[0])) {
+            JsonUtils.loadFromString(SYNTHETIC_ARRAY);
+            long parsedAt = System.currentTimeMillis();
+            System.out.println(parsedAt - ManagementFactory.getRuntimeMXBean().getStartTime());
+            return;
+        }
+        warmUp();
+    }
+
+    /**
+     * Synthetic bean used to exercise the bean serialization path.
+     */
+    private static class Sample {
+
+        private final String name;
+        private final int age;
+
+        Sample(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+}
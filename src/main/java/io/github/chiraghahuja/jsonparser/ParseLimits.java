@@ -0,0 +1,399 @@
+package io.github.chiraghahuja.jsonparser;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The ParseLimits class bounds the resources a single parse of untrusted input may use.
+ * Limits are enforced token by token while the input is streamed, so an oversized or deeply nested
+ * document fails as soon as it crosses a limit instead of after the whole tree has been built.
+ *
+ * A ParseLimits instance is thread-safe and meant to be shared: it also holds a limiter for the number
+ * of large parses running at the same time, and counts limit breaches per {@link Limit}.
+ *
+ * Example usage:
+ * <pre>{@code
+ * ParseLimits limits = ParseLimits.builder()
+ *         .maxBytes(1_000_000)
+ *         .maxDepth(64)
+ *         .maxStringLength(10_000)
+ *         .maxElements(100_000)
+ *         .maxMemoryBytes(16_000_000)
+ *         .maxConcurrentLargeParses(4, 100_000)
+ *         .build();
+ *
+ * try {
+ *     List<JsonNode> jsonNodes = JsonUtils.loadFromString(requestBody, limits);
+ * } catch (JsonUtils.ParseLimitExceededException e) {
+ *     System.out.println("Rejected: " + e.getLimit());
+ * } catch (JsonUtils.InvalidJsonFormatException e) {
+ *     System.out.println("Invalid JSON format: " + e.getMessage());
+ * }
+ * }</pre>
+ */
+public class ParseLimits {
+
+    // Rough heap cost of the nodes built by the parser, used for the memory budget
+    private static final long CONTAINER_NODE_BYTES = 64;
+    private static final long FIELD_ENTRY_BYTES = 48;
+    private static final long VALUE_NODE_BYTES = 24;
+    private static final long STRING_BYTES = 48;
+
+    /**
+     * The resource a limit applies to.
+     */
+    public enum Limit {
+        /** Total size of the input in bytes (characters for string input). */
+        BYTES,
+        /** Nesting depth of objects and arrays. */
+        DEPTH,
+        /** Length of a single string value or field name. */
+        STRING_LENGTH,
+        /** Number of values, including objects and arrays. */
+        ELEMENTS,
+        /** Estimated heap used by the resulting tree. */
+        MEMORY,
+        /**
+         * Number of large parses running at the same time. The observed value of a breach is the number
+         * of large parses holding a permit when the wait timed out, plus the rejected parse itself.
+         */
+        CONCURRENCY
+    }
+
+    private final long maxBytes;
+    private final int maxDepth;
+    private final int maxStringLength;
+    private final long maxElements;
+    private final long maxMemoryBytes;
+    private final long largeParseThreshold;
+    private final int maxConcurrentLargeParses;
+    private final long largeParseWaitMillis;
+    private final Semaphore largeParses;
+    private final Map<Limit, LongAdder> breaches = new EnumMap<>(Limit.class);
+
+    private ParseLimits(Builder builder) {
+        this.maxBytes = builder.maxBytes;
+        this.maxDepth = builder.maxDepth;
+        this.maxStringLength = builder.maxStringLength;
+        this.maxElements = builder.maxElements;
+        this.maxMemoryBytes = builder.maxMemoryBytes;
+        this.largeParseThreshold = builder.largeParseThreshold;
+        this.maxConcurrentLargeParses = builder.maxConcurrentLargeParses;
+        this.largeParseWaitMillis = builder.largeParseWaitMillis;
+        this.largeParses = builder.maxConcurrentLargeParses > 0 ? new Semaphore(builder.maxConcurrentLargeParses, true) : null;
+        for (Limit limit : Limit.values()) {
+            breaches.put(limit, new LongAdder());
+        }
+    }
+
+    /**
+     * Returns a builder with every limit disabled.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns how often the given limit has been exceeded.
+     *
+     * @param limit the limit
+     * @return the number of breaches
+     */
+    public long breachCount(Limit limit) {
+        return breaches.get(limit).sum();
+    }
+
+    /**
+     * Returns how often each limit has been exceeded.
+     *
+     * @return an unmodifiable map from limit to number of breaches
+     */
+    public Map<Limit, Long> breachCounts() {
+        Map<Limit, Long> counts = new EnumMap<>(Limit.class);
+        for (Map.Entry<Limit, LongAdder> entry : breaches.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the number of large parses currently holding a permit.
+     *
+     * @return the number of running large parses, or 0 if no concurrency limit is configured
+     */
+    public int activeLargeParses() {
+        return largeParses == null ? 0 : maxConcurrentLargeParses - largeParses.availablePermits();
+    }
+
+    JsonUtils.ParseLimitExceededException breach(Limit limit, long maximum, long actual) {
+        breaches.get(limit).increment();
+        return new JsonUtils.ParseLimitExceededException(limit, maximum, actual);
+    }
+
+    /**
+     * Fails if the known size of an input is over the byte limit, then takes a large-parse permit if needed.
+     *
+     * @return true if a permit was taken and must be given back with {@link #release()}
+     */
+    boolean acquire(long size) throws JsonUtils.ParseLimitExceededException {
+        if (size > maxBytes) {
+            throw breach(Limit.BYTES, maxBytes, size);
+        }
+        if (largeParses == null || size < largeParseThreshold) {
+            return false;
+        }
+        try {
+            if (largeParses.tryAcquire(largeParseWaitMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw breach(Limit.CONCURRENCY, maxConcurrentLargeParses, activeLargeParses() + 1L);
+    }
+
+    void release() {
+        largeParses.release();
+    }
+
+    /**
+     * Builds a tree from the parser, checking every limit as tokens arrive.
+     */
+    JsonNode readTree(JsonParser parser, JsonNodeFactory factory) throws IOException, JsonUtils.InvalidJsonFormatException {
+        Deque<ContainerNode<?>> stack = new ArrayDeque<>();
+        JsonNode root = null;
+        String fieldName = null;
+        long elements = 0;
+        long memory = 0;
+
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: No content");
+        }
+        do {
+            JsonNode node;
+            switch (token) {
+                case FIELD_NAME:
+                    checkStringLength(parser.getTextLength());
+                    fieldName = parser.getCurrentName();
+                    memory += FIELD_ENTRY_BYTES;
+                    node = null;
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (stack.size() >= maxDepth) {
+                        throw breach(Limit.DEPTH, maxDepth, stack.size() + 1);
+                    }
+                    node = token == JsonToken.START_OBJECT ? factory.objectNode() : factory.arrayNode();
+                    memory += CONTAINER_NODE_BYTES;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    stack.pop();
+                    node = null;
+                    break;
+                case VALUE_STRING:
+                    checkStringLength(parser.getTextLength());
+                    node = factory.textNode(parser.getText());
+                    memory += VALUE_NODE_BYTES + STRING_BYTES + parser.getTextLength();
+                    break;
+                default:
+                    node = scalar(parser, token, factory);
+                    memory += VALUE_NODE_BYTES;
+                    break;
+            }
+            if (node != null) {
+                if (++elements > maxElements) {
+                    throw breach(Limit.ELEMENTS, maxElements, elements);
+                }
+                if (stack.isEmpty()) {
+                    root = node;
+                } else if (stack.peek().isObject()) {
+                    ((ObjectNode) stack.peek()).set(fieldName, node);
+                } else {
+                    ((ArrayNode) stack.peek()).add(node);
+                }
+                if (node.isContainerNode()) {
+                    stack.push((ContainerNode<?>) node);
+                }
+            }
+            if (memory > maxMemoryBytes) {
+                throw breach(Limit.MEMORY, maxMemoryBytes, memory);
+            }
+            if (maxBytes != Long.MAX_VALUE) {
+                long offset = offset(parser.getCurrentLocation());
+                if (offset > maxBytes) {
+                    throw breach(Limit.BYTES, maxBytes, offset);
+                }
+            }
+        } while (!stack.isEmpty() && (token = parser.nextToken()) != null);
+
+        if (!stack.isEmpty()) {
+            throw new JsonUtils.InvalidJsonFormatException("Invalid JSON format: Unexpected end of input");
+        }
+        return root;
+    }
+
+    private void checkStringLength(int length) throws JsonUtils.ParseLimitExceededException {
+        if (length > maxStringLength) {
+            throw breach(Limit.STRING_LENGTH, maxStringLength, length);
+        }
+    }
+
+    private static long offset(JsonLocation location) {
+        return Math.max(location.getByteOffset(), location.getCharOffset());
+    }
+
+    private static JsonNode scalar(JsonParser parser, JsonToken token, JsonNodeFactory factory) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return factory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return factory.numberNode(parser.getLongValue());
+                    default:
+                        return factory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                return factory.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return factory.booleanNode(true);
+            case VALUE_FALSE:
+                return factory.booleanNode(false);
+            case VALUE_NULL:
+                return factory.nullNode();
+            default:
+                return factory.pojoNode(parser.getEmbeddedObject());
+        }
+    }
+
+    /**
+     * Builder for {@link ParseLimits}. Every limit is disabled until it is set.
+     */
+    public static class Builder {
+
+        private long maxBytes = Long.MAX_VALUE;
+        private int maxDepth = Integer.MAX_VALUE;
+        private int maxStringLength = Integer.MAX_VALUE;
+        private long maxElements = Long.MAX_VALUE;
+        private long maxMemoryBytes = Long.MAX_VALUE;
+        private long largeParseThreshold = Long.MAX_VALUE;
+        private int maxConcurrentLargeParses;
+        private long largeParseWaitMillis;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum input size in bytes. String input is measured in characters.
+         *
+         * @param maxBytes the maximum input size
+         * @return this builder
+         */
+        public Builder maxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum nesting depth of objects and arrays; a top-level object has depth 1.
+         *
+         * @param maxDepth the maximum depth
+         * @return this builder
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of a string value or field name.
+         *
+         * @param maxStringLength the maximum length in characters
+         * @return this builder
+         */
+        public Builder maxStringLength(int maxStringLength) {
+            this.maxStringLength = maxStringLength;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of values in the document, counting objects and arrays.
+         *
+         * @param maxElements the maximum number of values
+         * @return this builder
+         */
+        public Builder maxElements(long maxElements) {
+            this.maxElements = maxElements;
+            return this;
+        }
+
+        /**
+         * Sets the memory budget of a single parse, measured as an estimate of the heap used by the tree.
+         *
+         * @param maxMemoryBytes the memory budget in bytes
+         * @return this builder
+         */
+        public Builder maxMemoryBytes(long maxMemoryBytes) {
+            this.maxMemoryBytes = maxMemoryBytes;
+            return this;
+        }
+
+        /**
+         * Limits how many parses of inputs of at least {@code thresholdBytes} may run at the same time.
+         * Further large parses fail with {@link Limit#CONCURRENCY} unless a permit frees up within the wait time.
+         *
+         * @param permits        the maximum number of concurrent large parses
+         * @param thresholdBytes the input size from which a parse counts as large
+         * @return this builder
+         */
+        public Builder maxConcurrentLargeParses(int permits, long thresholdBytes) {
+            this.maxConcurrentLargeParses = permits;
+            this.largeParseThreshold = thresholdBytes;
+            return this;
+        }
+
+        /**
+         * Sets how long a large parse waits for a permit before failing. The default is not to wait.
+         *
+         * @param waitMillis the wait time in milliseconds
+         * @return this builder
+         */
+        public Builder largeParseWaitMillis(long waitMillis) {
+            this.largeParseWaitMillis = waitMillis;
+            return this;
+        }
+
+        /**
+         * Creates the limits.
+         *
+         * @return a new ParseLimits instance
+         */
+        public ParseLimits build() {
+            if (maxBytes < 0 || maxDepth < 0 || maxStringLength < 0 || maxElements < 0 || maxMemoryBytes < 0
+                    || maxConcurrentLargeParses < 0 || largeParseWaitMillis < 0) {
+                throw new IllegalArgumentException("Limits must not be negative");
+            }
+            return new ParseLimits(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.chiraghahuja.jsonparser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures time-to-first-parse from JVM launch by starting fresh JVMs that run
+ * {@code JsonWarmUp --time-to-first-parse}, once without and once with the AppCDS archive.
+ * It is run by the {@code appcds} profile after the archive is built:
+ * <pre>{@code
+ * mvn -Pappcds package -Dstartup.maxMillis=300
+ * }</pre>
+ *
+ * Arguments: {@code --classpath <jar classpath> [--archive <jsa file>] [--runs <n>] [--max-millis <ms>]}.
+ * With {@code --max-millis} greater than 0 the benchmark exits with status 1 when the median
+ * time of the last configuration exceeds it, so regressions fail the build.
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String classpath = null;
+        String archive = null;
+        int runs = 10;
+        long maxMillis = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--classpath":
+                    classpath = args[i + 1];
+                    break;
+                case "--archive":
+                    archive = args[i + 1];
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--max-millis":
+                    maxMillis = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (classpath == null) {
+            throw new IllegalArgumentException("--classpath is required");
+        }
+
+        long median = measure("default", classpath, null, runs);
+        if (archive != null && new File(archive).isFile()) {
+            median = measure("appcds", classpath, archive, runs);
+        }
+        if (maxMillis > 0 && median > maxMillis) {
+            System.out.println("Time-to-first-parse " + median + " ms exceeds the limit of " + maxMillis + " ms");
+            System.exit(1);
+        }
+    }
+
+    private static long measure(String label, String classpath, String archive, int runs) throws IOException, InterruptedException {
+        long[] firstParse = new long[runs];
+        long[] wall = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            List<String> command = new ArrayList<>();
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            if (archive != null) {
+                command.add("-XX:SharedArchiveFile=" + archive);
+            }
+            command.add("-cp");
+            command.add(classpath);
+            command.add(JsonWarmUp.class.getName());
+            command.add("--time-to-first-parse");
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                // JVM warnings, e.g. about an unusable archive, may precede the probe's result on the last line
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    output = line;
+                }
+            }
+            if (process.waitFor() != 0 || output == null) {
+                throw new IllegalStateException("Probe JVM failed: " + output);
+            }
+            wall[run] = (System.nanoTime() - start) / 1_000_000;
+            firstParse[run] = Long.parseLong(output.trim());
+        }
+        long median = median(firstParse);
+        System.out.println(label + ": median time-to-first-parse " + median + " ms, median process wall time "
+                + median(wall) + " ms over " + runs + " runs");
+        return median;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.chiraghahuja.jsonparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestColumnarTable {
+
+    @TempDir
+    Path tempDir; // Temporary directory for test files
+
+    @Test
+    public void testLoadFromStringInfersColumnTypes() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"name\": \"John\", \"age\": 30, \"score\": 1.5, \"active\": true},"
+                + " {\"name\": \"Jane\", \"age\": 25, \"score\": 2, \"active\": false}]";
+
+        ColumnarTable table = ColumnarTable.loadFromString(jsonContent);
+
+        assertEquals(2, table.rowCount());
+        assertEquals(List.of("name", "age", "score", "active"), table.columnNames());
+        assertEquals(ColumnarTable.ColumnType.STRING, table.column("name").type());
+        assertEquals(ColumnarTable.ColumnType.INT, table.column("age").type());
+        assertEquals(ColumnarTable.ColumnType.DOUBLE, table.column("score").type());
+        assertEquals(ColumnarTable.ColumnType.BOOLEAN, table.column("active").type());
+        assertArrayEquals(new int[] {30, 25}, table.column("age").intValues());
+        assertArrayEquals(new double[] {1.5, 2.0}, table.column("score").doubleValues());
+        assertEquals("Jane", table.column("name").getString(1));
+        assertFalse(table.column("active").getBoolean(1));
+    }
+
+    @Test
+    public void testMissingFieldsAndNullsAreNull() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"a\": 1}, {\"b\": \"x\"}, {\"a\": null, \"b\": \"x\"}]";
+
+        ColumnarTable table = ColumnarTable.loadFromString(jsonContent);
+
+        ColumnarTable.Column a = table.column("a");
+        ColumnarTable.Column b = table.column("b");
+        assertEquals(3, a.size());
+        assertFalse(a.isNull(0));
+        assertTrue(a.isNull(1));
+        assertTrue(a.isNull(2));
+        assertTrue(b.isNull(0));
+        assertEquals(1, b.dictionary().size());
+        assertEquals(b.stringCodes()[1], b.stringCodes()[2]);
+    }
+
+    @Test
+    public void testColumnTypesAreWidened() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"n\": 1, \"m\": 1}, {\"n\": 10000000000, \"m\": \"one\"}, {\"n\": 0.5, \"m\": {\"k\": [1]}}]";
+
+        ColumnarTable table = ColumnarTable.loadFromString(jsonContent);
+
+        assertEquals(ColumnarTable.ColumnType.DOUBLE, table.column("n").type());
+        assertArrayEquals(new double[] {1.0, 1.0E10, 0.5}, table.column("n").doubleValues());
+        assertEquals(ColumnarTable.ColumnType.STRING, table.column("m").type());
+        assertEquals("1", table.column("m").getString(0));
+        assertEquals("one", table.column("m").getString(1));
+        assertEquals("{\"k\":[1]}", table.column("m").getString(2));
+    }
+
+    @Test
+    public void testNestedValuesAreCopiedAsJsonText() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"address\": {\"street\": \"123 Main St\", \"geo\": [1.5, {\"z\": null}]}, \"after\": 1},"
+                + " {\"address\": [], \"after\": 2}]";
+
+        ColumnarTable table = ColumnarTable.loadFromString(jsonContent);
+
+        assertEquals("{\"street\":\"123 Main St\",\"geo\":[1.5,{\"z\":null}]}", table.column("address").getString(0));
+        assertEquals("[]", table.column("address").getString(1));
+        assertArrayEquals(new int[] {1, 2}, table.column("after").intValues());
+    }
+
+    @Test
+    public void testLoadFromFileAndBinaryRoundTrip() throws IOException, JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"id\": 1, \"big\": 10000000000, \"city\": \"New York\", \"none\": null},"
+                + " {\"id\": 2, \"big\": 3, \"city\": \"Paris\", \"none\": null}]";
+        Path jsonFilePath = tempDir.resolve("records.json");
+        Files.write(jsonFilePath, jsonContent.getBytes());
+        Path columnFilePath = tempDir.resolve("records.jcol");
+
+        ColumnarTable table = ColumnarTable.loadFromFile(jsonFilePath.toString());
+        table.writeToFile(columnFilePath.toString());
+        ColumnarTable copy = ColumnarTable.readFromFile(columnFilePath.toString());
+
+        assertEquals(2, copy.rowCount());
+        assertEquals(table.columnNames(), copy.columnNames());
+        assertArrayEquals(new int[] {1, 2}, copy.column("id").intValues());
+        assertArrayEquals(new long[] {10000000000L, 3L}, copy.column("big").longValues());
+        assertEquals("Paris", copy.column("city").getString(1));
+        assertEquals(ColumnarTable.ColumnType.NULL, copy.column("none").type());
+        assertTrue(copy.column("none").isNull(1));
+    }
+
+    @Test
+    public void testFromNodes() throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> nodes = JsonUtils.loadFromString("[{\"name\": \"John\"}, {\"name\": \"Jane\", \"age\": 25}]");
+
+        ColumnarTable table = ColumnarTable.fromNodes(nodes);
+
+        assertEquals(2, table.rowCount());
+        assertTrue(table.column("age").isNull(0));
+        assertEquals(25, table.column("age").getLong(1));
+    }
+
+    @Test
+    public void testLoadFromStringWithNonObjectArray() {
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> {
+            ColumnarTable.loadFromString("[1, 2, 3]");
+        });
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> {
+            ColumnarTable.loadFromString(null);
+        });
+    }
+
+    @Test
+    public void testReadFromFileWithInvalidContent() throws IOException {
+        Path columnFilePath = tempDir.resolve("invalid.jcol");
+        Files.write(columnFilePath, "not columns".getBytes());
+
+        assertThrows(IOException.class, () -> {
+            ColumnarTable.readFromFile(columnFilePath.toString());
+        });
+    }
+}
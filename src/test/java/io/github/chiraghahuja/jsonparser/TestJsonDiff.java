@@ -0,0 +1,119 @@
+package io.github.chiraghahuja.jsonparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonDiff {
+
+    @TempDir
+    Path tempDir; // Temporary directory for test files
+
+    private static final String BEFORE = "[{\"id\": 1, \"name\": \"John\"}, {\"id\": 2, \"name\": \"Jane\"},"
+            + " {\"id\": 3, \"name\": \"Sara\"}, {\"id\": 4, \"name\": \"Alex\"}]";
+    private static final String AFTER = "[{\"id\": 1, \"name\": \"John\"}, {\"id\": 5, \"name\": \"Anna\"},"
+            + " {\"id\": 3, \"name\": \"Sarah\"}, {\"id\": 4, \"name\": \"Alex\"}]";
+
+    @Test
+    public void testDiffEmitsRemoveAddAndReplace() throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> patch = JsonDiff.diff(JsonUtils.loadFromString(BEFORE), JsonUtils.loadFromString(AFTER), "id");
+
+        assertEquals(3, patch.size());
+        assertEquals("{\"op\":\"remove\",\"path\":\"/1\"}", patch.get(0).toString());
+        assertEquals("add", patch.get(1).get("op").asText());
+        assertEquals("/1", patch.get(1).get("path").asText());
+        assertEquals("Anna", patch.get(1).get("value").get("name").asText());
+        assertEquals("replace", patch.get(2).get("op").asText());
+        assertEquals("/2", patch.get(2).get("path").asText());
+    }
+
+    @Test
+    public void testApplyPatchRebuildsAfter() throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> before = JsonUtils.loadFromString(BEFORE);
+        List<JsonNode> after = JsonUtils.loadFromString(AFTER);
+
+        assertEquals(after, JsonDiff.applyPatch(before, JsonDiff.diff(before, after, "id")));
+    }
+
+    @Test
+    public void testReorderedAndIdenticalRecords() throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> before = JsonUtils.loadFromString(BEFORE);
+        List<JsonNode> reordered = JsonUtils.loadFromString("[{\"name\": \"Alex\", \"id\": 4}, {\"id\": 1, \"name\": \"John\"}]");
+
+        assertEquals(0, JsonDiff.diff(before, before, "id").size());
+        assertEquals(reordered, JsonDiff.applyPatch(before, JsonDiff.diff(before, reordered, "id")));
+        assertEquals(List.of(), JsonDiff.applyPatch(before, JsonDiff.diff(before, List.of(), "id")));
+    }
+
+    @Test
+    public void testMovedRecordCostsOneRemoveAndOneAdd() throws JsonUtils.InvalidJsonFormatException {
+        StringBuilder before = new StringBuilder("[");
+        for (int id = 0; id < 10; id++) {
+            before.append(id == 0 ? "" : ", ").append("{\"id\": ").append(id).append("}");
+        }
+        List<JsonNode> records = JsonUtils.loadFromString(before.append("]").toString());
+        List<JsonNode> lastToFront = new ArrayList<>(records);
+        lastToFront.add(0, lastToFront.remove(9));
+        List<JsonNode> firstToBack = new ArrayList<>(records);
+        firstToBack.add(firstToBack.remove(0));
+        List<JsonNode> abc = JsonUtils.loadFromString("[{\"id\": \"A\"}, {\"id\": \"B\"}, {\"id\": \"C\"}]");
+        List<JsonNode> cab = JsonUtils.loadFromString("[{\"id\": \"C\"}, {\"id\": \"A\"}, {\"id\": \"B\"}]");
+
+        List<JsonNode> patch = JsonDiff.diff(records, lastToFront, "id");
+        assertEquals(2, patch.size());
+        assertEquals("{\"op\":\"remove\",\"path\":\"/9\"}", patch.get(0).toString());
+        assertEquals("/0", patch.get(1).get("path").asText());
+        assertEquals(lastToFront, JsonDiff.applyPatch(records, patch));
+        assertEquals(2, JsonDiff.diff(records, firstToBack, "id").size());
+        assertEquals(2, JsonDiff.diff(abc, cab, "id").size());
+        assertEquals(cab, JsonDiff.applyPatch(abc, JsonDiff.diff(abc, cab, "id")));
+    }
+
+    @Test
+    public void testDiffFilesAndApplyPatchToFile() throws IOException, JsonUtils.InvalidJsonFormatException {
+        Path beforePath = tempDir.resolve("before.json");
+        Path afterPath = tempDir.resolve("after.json");
+        Path patchPath = tempDir.resolve("patch.json");
+        Path outputPath = tempDir.resolve("output.json");
+        Files.write(beforePath, BEFORE.getBytes());
+        Files.write(afterPath, AFTER.getBytes());
+
+        JsonDiff.diffFiles(beforePath.toString(), afterPath.toString(), "id", patchPath.toString());
+        JsonDiff.applyPatchToFile(beforePath.toString(), patchPath.toString(), outputPath.toString());
+
+        assertEquals(JsonDiff.diff(JsonUtils.loadFromString(BEFORE), JsonUtils.loadFromString(AFTER), "id"),
+                JsonUtils.loadFromFile(patchPath.toString()));
+        assertEquals(JsonUtils.loadFromString(AFTER), JsonUtils.loadFromFile(outputPath.toString()));
+    }
+
+    @Test
+    public void testDiffWithMissingOrDuplicateKey() {
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> {
+            JsonDiff.diff(JsonUtils.loadFromString("[{\"id\": 1}, {\"name\": \"John\"}]"), List.of(), "id");
+        });
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> {
+            JsonDiff.diff(JsonUtils.loadFromString("[{\"id\": 1}, {\"id\": 1}]"), List.of(), "id");
+        });
+    }
+
+    @Test
+    public void testApplyPatchWithUnsupportedOperation() throws JsonUtils.InvalidJsonFormatException {
+        List<JsonNode> records = JsonUtils.loadFromString(BEFORE);
+        List<JsonNode> move = JsonUtils.loadFromString("[{\"op\": \"move\", \"from\": \"/0\", \"path\": \"/1\"}]");
+        List<JsonNode> outOfOrder = JsonUtils.loadFromString("[{\"op\": \"remove\", \"path\": \"/0\"}, {\"op\": \"remove\", \"path\": \"/1\"}]");
+        List<JsonNode> outOfBounds = JsonUtils.loadFromString("[{\"op\": \"remove\", \"path\": \"/9\"}]");
+
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonDiff.applyPatch(records, move));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonDiff.applyPatch(records, outOfOrder));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonDiff.applyPatch(records, outOfBounds));
+    }
+}
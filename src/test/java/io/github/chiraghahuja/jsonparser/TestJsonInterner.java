@@ -0,0 +1,112 @@
+package io.github.chiraghahuja.jsonparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonInterner {
+
+    @TempDir
+    Path tempDir; // Temporary directory for test files
+
+    @Test
+    public void testLoadFromStringSharesRepeatedValues() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"name\": \"John\", \"country\": \"US\"}, {\"name\": \"Jane\", \"country\": \"US\"}]";
+        JsonInterner interner = new JsonInterner(100, 16);
+
+        List<JsonNode> nodes = JsonUtils.loadFromString(jsonContent, interner);
+
+        assertEquals(2, nodes.size());
+        assertEquals("US", nodes.get(0).get("country").asText());
+        assertSame(nodes.get(0).get("country"), nodes.get(1).get("country"));
+        assertEquals(1, interner.hits());
+        assertEquals(3, interner.misses());
+        assertEquals(0.25, interner.hitRate(), 1e-9);
+    }
+
+    @Test
+    public void testLoadFromFileWithInterner() throws IOException, JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"status\": \"ACTIVE\"}, {\"status\": \"ACTIVE\"}, {\"status\": \"ACTIVE\"}]";
+        Path jsonFilePath = tempDir.resolve("interned.json");
+        Files.write(jsonFilePath, jsonContent.getBytes());
+        JsonInterner interner = new JsonInterner(100, 16);
+
+        List<JsonNode> nodes = JsonUtils.loadFromFile(jsonFilePath.toString(), interner);
+
+        assertEquals(3, nodes.size());
+        assertSame(nodes.get(0).get("status"), nodes.get(2).get("status"));
+        assertEquals(1, interner.size());
+
+        Path emptyFilePath = tempDir.resolve("empty.json");
+        Path invalidFilePath = tempDir.resolve("invalid.json");
+        Files.write(emptyFilePath, new byte[0]);
+        Files.write(invalidFilePath, "[{\"status\": ".getBytes());
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromFile(emptyFilePath.toString(), interner));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromFile(invalidFilePath.toString(), interner));
+    }
+
+    @Test
+    public void testLongValuesAreNotInterned() throws JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"text\": \"a long description\"}, {\"text\": \"a long description\"}]";
+        JsonInterner interner = new JsonInterner(100, 4);
+
+        List<JsonNode> nodes = JsonUtils.loadFromString(jsonContent, interner);
+
+        assertEquals(nodes.get(0).get("text"), nodes.get(1).get("text"));
+        assertNotSame(nodes.get(0).get("text"), nodes.get(1).get("text"));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void testTableIsBounded() {
+        JsonInterner interner = new JsonInterner(2, 16);
+
+        interner.intern("a");
+        interner.intern("b");
+        interner.intern("c");
+
+        assertEquals(2, interner.size());
+        assertSame(interner.intern("a"), interner.intern("a"));
+        assertEquals(2, interner.hits());
+    }
+
+    @Test
+    public void testTableIsBoundedUnderConcurrentInserts() throws InterruptedException {
+        JsonInterner interner = new JsonInterner(100, 16);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 1000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    interner.intern("v" + (offset + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(100, interner.size());
+        interner.clear();
+        assertEquals(0, interner.size());
+        interner.intern("a");
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testLoadFromStringWithInternerAndInvalidJson() {
+        JsonInterner interner = new JsonInterner(100, 16);
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> {
+            JsonUtils.loadFromString("[1, 2, 3]", interner);
+        });
+    }
+}
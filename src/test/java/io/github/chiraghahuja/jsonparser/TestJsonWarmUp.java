@@ -0,0 +1,30 @@
+package io.github.chiraghahuja.jsonparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonWarmUp {
+
+    @Test
+    public void testWarmUpLeavesLibraryUsable() throws JsonUtils.InvalidJsonFormatException {
+        JsonWarmUp.warmUp(10);
+
+        List<JsonNode> nodes = JsonUtils.loadFromString("{\"name\": \"John\"}");
+        assertEquals(1, nodes.size());
+        assertEquals("John", nodes.get(0).get("name").asText());
+    }
+
+    @Test
+    public void testWarmUpWithZeroIterations() throws IOException, JsonUtils.InvalidJsonFormatException {
+        JsonWarmUp.warmUp(0);
+
+        List<JsonNode> nodes = JsonUtils.loadFromString("[{\"name\": \"John\"}, {\"name\": \"Jane\"}]");
+        assertEquals("[{\"name\":\"John\"},{\"name\":\"Jane\"}]", JsonUtils.dumpToString(nodes));
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.chiraghahuja.jsonparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParseLimits {
+
+    @TempDir
+    Path tempDir; // Temporary directory for test files
+
+    @Test
+    public void testLoadFromStringWithinLimits() throws JsonUtils.InvalidJsonFormatException {
+        ParseLimits limits = ParseLimits.builder().maxBytes(1000).maxDepth(3).maxStringLength(10).maxElements(20).build();
+        String jsonContent = "[{\"name\": \"John\", \"age\": 30, \"tags\": [\"a\", \"b\"], \"big\": 12345678901234567890}]";
+
+        List<JsonNode> nodes = JsonUtils.loadFromString(jsonContent, limits);
+
+        assertEquals(JsonUtils.loadFromString(jsonContent), nodes);
+        assertEquals(0, limits.breachCount(ParseLimits.Limit.DEPTH));
+    }
+
+    @Test
+    public void testDepthLimit() {
+        ParseLimits limits = ParseLimits.builder().maxDepth(2).build();
+        JsonUtils.ParseLimitExceededException e = assertThrows(JsonUtils.ParseLimitExceededException.class, () -> {
+            JsonUtils.loadFromString("[{\"a\": {\"b\": 1}}]", limits);
+        });
+
+        assertEquals(ParseLimits.Limit.DEPTH, e.getLimit());
+        assertEquals(2, e.getMaximum());
+        assertEquals(3, e.getActual());
+        assertEquals(1, limits.breachCount(ParseLimits.Limit.DEPTH));
+    }
+
+    @Test
+    public void testByteStringAndElementLimits() {
+        ParseLimits bytes = ParseLimits.builder().maxBytes(10).build();
+        ParseLimits strings = ParseLimits.builder().maxStringLength(3).build();
+        ParseLimits elements = ParseLimits.builder().maxElements(3).build();
+        String jsonContent = "[{\"name\": \"John\"}, {\"name\": \"Jane\"}]";
+
+        assertEquals(ParseLimits.Limit.BYTES, assertThrows(JsonUtils.ParseLimitExceededException.class,
+                () -> JsonUtils.loadFromString(jsonContent, bytes)).getLimit());
+        assertEquals(ParseLimits.Limit.STRING_LENGTH, assertThrows(JsonUtils.ParseLimitExceededException.class,
+                () -> JsonUtils.loadFromString(jsonContent, strings)).getLimit());
+        assertEquals(ParseLimits.Limit.ELEMENTS, assertThrows(JsonUtils.ParseLimitExceededException.class,
+                () -> JsonUtils.loadFromString(jsonContent, elements)).getLimit());
+    }
+
+    @Test
+    public void testMemoryLimit() {
+        ParseLimits limits = ParseLimits.builder().maxMemoryBytes(200).build();
+        JsonUtils.ParseLimitExceededException e = assertThrows(JsonUtils.ParseLimitExceededException.class, () -> {
+            JsonUtils.loadFromString("[{\"a\": 1}, {\"a\": 2}, {\"a\": 3}, {\"a\": 4}]", limits);
+        });
+
+        assertEquals(ParseLimits.Limit.MEMORY, e.getLimit());
+        assertEquals(1, (long) limits.breachCounts().get(ParseLimits.Limit.MEMORY));
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws JsonUtils.InvalidJsonFormatException {
+        ParseLimits limits = ParseLimits.builder().maxConcurrentLargeParses(1, 10).build();
+        assertTrue(limits.acquire(100));
+        try {
+            JsonUtils.ParseLimitExceededException e = assertThrows(JsonUtils.ParseLimitExceededException.class, () -> {
+                JsonUtils.loadFromString("[{\"name\": \"John\"}]", limits);
+            });
+            assertEquals(ParseLimits.Limit.CONCURRENCY, e.getLimit());
+            assertEquals(1, e.getMaximum());
+            assertEquals(2, e.getActual());
+            // Small inputs do not need a permit
+            assertEquals(1, JsonUtils.loadFromString("{}", limits).size());
+            assertEquals(1, limits.activeLargeParses());
+        } finally {
+            limits.release();
+        }
+        assertEquals(1, JsonUtils.loadFromString("[{\"name\": \"John\"}]", limits).size());
+        assertEquals(0, limits.activeLargeParses());
+        assertEquals(1, limits.breachCount(ParseLimits.Limit.CONCURRENCY));
+    }
+
+    @Test
+    public void testLoadFromFileWithLimits() throws IOException, JsonUtils.InvalidJsonFormatException {
+        String jsonContent = "[{\"name\": \"John\", \"age\": 30, \"city\": \"New York\"}]";
+        Path jsonFilePath = tempDir.resolve("limited.json");
+        Files.write(jsonFilePath, jsonContent.getBytes());
+
+        List<JsonNode> nodes = JsonUtils.loadFromFile(jsonFilePath.toString(), ParseLimits.builder().maxBytes(100).build());
+        assertEquals("New York", nodes.get(0).get("city").asText());
+
+        assertThrows(JsonUtils.ParseLimitExceededException.class, () -> {
+            JsonUtils.loadFromFile(jsonFilePath.toString(), ParseLimits.builder().maxBytes(10).build());
+        });
+    }
+
+    @Test
+    public void testLoadFromStringWithLimitsAndInvalidJson() {
+        ParseLimits limits = ParseLimits.builder().build();
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromString("[1, 2, 3]", limits));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromString("[{\"a\": 1}", limits));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromString("", limits));
+        assertThrows(JsonUtils.InvalidJsonFormatException.class, () -> JsonUtils.loadFromString(null, limits));
+    }
+}